@@ -0,0 +1,39 @@
+#!/bin/sh
+# Runs RunCleaner with an AppCDS archive to cut JVM startup for short, cron-driven runs.
+#
+#   cds.sh train <config>  package the jar, copy runtime dependencies and record the archive.
+#                          The training run executes the configured jobs for real.
+#   cds.sh run <config>    run RunCleaner with the recorded archive.
+#
+# CLEANER_CDS_ARCHIVE  archive path (default: target/cleaner.jsa)
+# CLEANER_JAVA_OPTS    extra JVM options for "run", e.g. "-XX:TieredStopAtLevel=1 -XX:+UseSerialGC";
+#                      measure them on the target hosts before relying on them.
+#
+# The archive is only used with the JDK and classpath it was recorded with; re-run "train" after
+# upgrading either. The exit code is RunCleaner's (0 ok, 1 job failed, 2 usage/config error).
+set -eu
+
+DIR=$(cd "$(dirname "$0")" && pwd)
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+ARCHIVE="${CLEANER_CDS_ARCHIVE:-$DIR/target/cleaner.jsa}"
+CP="$DIR/target/custom-strategy-adaptor-pj-0.0.1-SNAPSHOT.jar:$DIR/target/dependency/*"
+
+if [ $# -ne 2 ]; then
+	echo "Usage: $0 train|run <config file>" >&2
+	exit 2
+fi
+
+case "$1" in
+	train)
+		mvn -B -q -f "$DIR/pom.xml" -DskipTests package dependency:copy-dependencies -DincludeScope=runtime
+		exec "$JAVA" -XX:ArchiveClassesAtExit="$ARCHIVE" -cp "$CP" com.file.RunCleaner "$2"
+		;;
+	run)
+		# shellcheck disable=SC2086
+		exec "$JAVA" -XX:SharedArchiveFile="$ARCHIVE" ${CLEANER_JAVA_OPTS:-} -cp "$CP" com.file.RunCleaner "$2"
+		;;
+	*)
+		echo "Usage: $0 train|run <config file>" >&2
+		exit 2
+		;;
+esac
@@ -1,21 +1,118 @@
 package com.file;
 
-import java.util.Collections;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
 
 import com.file.cleaner.Cleaner;
 import com.file.cleaner.data.CleanerInterfaceInfo;
+import com.file.cleaner.data.CleanerRunResult;
+import com.file.cleaner.utils.StringUtils;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 설정 파일에 정의된 삭제 작업을 순서대로 실행하는 CLI 진입점.
+ * <p>
+ * 사용법: {@code RunCleaner [-c|--config] <설정 파일>}
+ * <pre>
+ * cleaner.jobs=old,tmp
+ * cleaner.job.old.searchPaths=/TEST/test/old/file
+ * cleaner.job.old.searchRules=IS_FILE and CREATION_DAYS_AGE &gt; 30
+ * cleaner.job.old.historyPath=/TEST/history
+ * cleaner.job.old.excludePath=/TEST/test/old/file/20260301,/TEST/test/old/file/keep/**
+ * </pre>
+ * 종료 코드는 정상 0, 사용법 오류 2, 하나 이상의 작업이 실패하거나 경로별 오류가 발생한 경우 1 이다.
+ */
+@Slf4j
 public class RunCleaner {
+	private static final String PREFIX = "cleaner.";
+	private static final String JOBS = PREFIX + "jobs";
+	private static final String JOB_PREFIX = PREFIX + "job.";
+
+	public static void main(String[] args) {
+		Path configFile = parseArguments(args);
+		if (configFile == null) {
+			System.err.println("Usage: RunCleaner [-c|--config] <config file>");
+			System.exit(2);
+			return;
+		}
+
+		Properties properties;
+		List<CleanerInterfaceInfo> jobs;
+		try {
+			properties = load(configFile);
+			jobs = createJobs(properties);
+		} catch (Exception e) {
+			log.error("설정 파일을 읽는 중 오류가 발생했습니다. [CONFIG: {}]\r\n", configFile.toAbsolutePath(), e);
+			System.exit(2);
+			return;
+		}
 
-	public static void main(String[] args) throws Exception {
-		CleanerInterfaceInfo info = new CleanerInterfaceInfo();
-		info.setSearchPaths("/TEST/test/old/file");
-		info.setSearchRules("(IS_FILE and CREATION_DAYS_AGE > 30) or (IS_DIRECTORY and (CREATION_DAYS_AGE > 30 or IS_DIRECTORY_EMPTY))");
-		info.setHistoryPath("/TEST/history");
-		info.setExcludePath(Collections.singletonList("/TEST/test/old/file/20260301"));
-		
+		int failed = 0;
 		Cleaner cleaner = new Cleaner();
-		cleaner.run(info);
+		for (CleanerInterfaceInfo info : jobs) {
+			try {
+				CleanerRunResult result = cleaner.execute(info, null, null);
+				if (result.hasErrors()) {
+					failed++;
+					log.error("삭제 작업 중 오류가 발생했습니다. [SEARCH_PATHS: {}]", info.getSearchPaths());
+				}
+			} catch (Exception e) {
+				failed++;
+				log.error("삭제 작업 중 오류가 발생했습니다. [SEARCH_PATHS: {}]\r\n", info.getSearchPaths(), e);
+			}
+		}
+		System.exit(failed == 0 ? 0 : 1);
 	}
 
+	private static Path parseArguments(String[] args) {
+		if (args == null || args.length == 0) return null;
+		if ("-c".equals(args[0]) || "--config".equals(args[0])) {
+			return args.length == 2 ? Paths.get(args[1]) : null;
+		}
+		return args.length == 1 ? Paths.get(args[0]) : null;
+	}
+
+	private static Properties load(Path configFile) throws IOException {
+		Properties properties = new Properties();
+		try (BufferedReader reader = Files.newBufferedReader(configFile, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		return properties;
+	}
+
+	private static List<CleanerInterfaceInfo> createJobs(Properties properties) throws Exception {
+		String jobNames = properties.getProperty(JOBS);
+		if (StringUtils.isNullOrEmpty(jobNames)) throw new IllegalArgumentException("Property '" + JOBS + "' is required");
+
+		List<CleanerInterfaceInfo> jobs = new ArrayList<CleanerInterfaceInfo>();
+		for (String jobName : jobNames.split(",")) {
+			if (StringUtils.isNullOrEmpty(jobName)) continue;
+			String prefix = JOB_PREFIX + jobName.trim() + ".";
+			CleanerInterfaceInfo info = new CleanerInterfaceInfo();
+			info.setSearchPaths(properties.getProperty(prefix + "searchPaths"));
+			info.setSearchRules(properties.getProperty(prefix + "searchRules"));
+			info.setHistoryPath(properties.getProperty(prefix + "historyPath"));
+			info.setExcludePath(split(properties.getProperty(prefix + "excludePath")));
+			info.afterPropertiesSet();
+			jobs.add(info);
+		}
+		return jobs;
+	}
+
+	private static List<String> split(String value) {
+		List<String> result = new ArrayList<String>();
+		if (StringUtils.isNullOrEmpty(value)) return result;
+		for (String item : value.split(",")) {
+			if (StringUtils.isNotNullAndEmpty(item)) result.add(item.trim());
+		}
+		return result;
+	}
 }
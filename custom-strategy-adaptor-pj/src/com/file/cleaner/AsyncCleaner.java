@@ -0,0 +1,115 @@
+package com.file.cleaner;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.file.cleaner.constants.EVENT_TYPE;
+import com.file.cleaner.data.CleanerEvent;
+import com.file.cleaner.data.CleanerInterfaceInfo;
+import com.file.cleaner.data.CleanerRunResult;
+import com.file.cleaner.service.CleanerEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제 작업을 가상 스레드에서 비동기로 실행한다.
+ * <p>
+ * 모든 작업의 이벤트는 {@link #getPublisher()} 로 구독할 수 있으며, 각 이벤트의 {@link CleanerEvent#getRunId()} 는
+ * {@link CleanerJob#getId()} 와 같다. 작업이 끝나면 {@link EVENT_TYPE#COMPLETE} 이벤트가 한 번 발행된다.
+ * <p>
+ * 구독자가 탐색을 지연시키지 않도록 모든 이벤트는 대기 없이 전달되며, 버퍼가 가득 찬 구독자의 이벤트는 버려진다.
+ * 구독자별로 버려진 수는 {@link #getDroppedEventCount(Flow.Subscriber)} 로 확인할 수 있다.
+ * 이벤트 유실과 관계없이 작업의 전체 처리 내역(건수, 용량, 오류)은 {@link CleanerJob#getResult()} 의 결과에 모두 포함된다.
+ */
+@Slf4j
+public class AsyncCleaner implements AutoCloseable {
+	private final Cleaner cleaner = new Cleaner();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final ExecutorService publisherExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final SubmissionPublisher<CleanerEvent> publisher;
+	private final Map<Flow.Subscriber<? super CleanerEvent>, AtomicLong> droppedEventCounts = Collections.synchronizedMap(new WeakHashMap<Flow.Subscriber<? super CleanerEvent>, AtomicLong>());
+	private final CleanerEventListener listener = new CleanerEventListener() {
+		@Override
+		public boolean isListening() {
+			return !publisher.isClosed() && publisher.hasSubscribers();
+		}
+
+		@Override
+		public void accept(CleanerEvent event) {
+			publish(event);
+		}
+	};
+
+	public AsyncCleaner() {
+		this(Flow.defaultBufferSize());
+	}
+
+	public AsyncCleaner(int bufferSize) {
+		this.publisher = new SubmissionPublisher<CleanerEvent>(this.publisherExecutor, bufferSize);
+	}
+
+	public CleanerJob runAsync(CleanerInterfaceInfo info) {
+		CleanerJob job = new CleanerJob(UUID.randomUUID().toString());
+		try {
+			this.executor.execute(() -> {
+				try {
+					CleanerRunResult result = this.cleaner.execute(job.getId(), info, this.listener, job::isCancelRequested);
+					job.getResult().complete(result);
+					this.complete(job, null);
+				} catch (Throwable e) {
+					log.error("삭제 작업 중 오류가 발생했습니다. [SEARCH_PATHS: {}]\r\n", info.getSearchPaths(), e);
+					job.getResult().completeExceptionally(e);
+					this.complete(job, e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			job.getResult().completeExceptionally(e);
+		}
+		return job;
+	}
+
+	public Flow.Publisher<CleanerEvent> getPublisher() {
+		return this.publisher;
+	}
+
+	public long getDroppedEventCount(Flow.Subscriber<? super CleanerEvent> subscriber) {
+		AtomicLong count = this.droppedEventCounts.get(subscriber);
+		return count == null ? 0L : count.get();
+	}
+
+	/**
+	 * 새 작업을 받지 않고 실행 중인 작업이 모두 끝날 때까지 기다린 뒤 구독자에게 완료를 알린다.
+	 * 즉시 종료가 필요하면 먼저 각 작업의 {@link CleanerJob#cancel()} 을 호출한다.
+	 */
+	@Override
+	public void close() {
+		this.executor.close();
+		this.publisher.close();
+		this.publisherExecutor.shutdown();
+	}
+
+	private void complete(CleanerJob job, Throwable error) {
+		if (this.listener.isListening()) {
+			this.publish(new CleanerEvent(job.getId(), EVENT_TYPE.COMPLETE, null, null, false, 0L, error));
+		}
+	}
+
+	private void publish(CleanerEvent event) {
+		try {
+			this.publisher.offer(event, (subscriber, dropped) -> {
+				this.droppedEventCounts.computeIfAbsent(subscriber, key -> new AtomicLong()).incrementAndGet();
+				return false;
+			});
+		} catch (IllegalStateException | RejectedExecutionException e) {
+			log.debug("이벤트 발행자가 종료되어 이벤트를 전달하지 않습니다. :: {}", event);
+		}
+	}
+}
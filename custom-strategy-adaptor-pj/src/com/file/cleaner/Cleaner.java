@@ -3,17 +3,30 @@ package com.file.cleaner;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Matcher;
 
 import org.springframework.expression.Expression;
 
+import com.file.cleaner.constants.EVENT_TYPE;
+import com.file.cleaner.data.CleanerEvent;
 import com.file.cleaner.data.CleanerFileData;
 import com.file.cleaner.data.CleanerInterfaceInfo;
+import com.file.cleaner.data.CleanerPathResult;
+import com.file.cleaner.data.CleanerRunResult;
+import com.file.cleaner.service.CleanerEventListener;
 import com.file.cleaner.service.CleanerFileVisitor;
 import com.file.cleaner.utils.FileUtils;
 import com.file.cleaner.utils.StringUtils;
@@ -22,25 +35,46 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class Cleaner {
-	private List<String> excludePathList;
-	
 	public void run(CleanerInterfaceInfo info) throws Exception {
+		execute(info, null, null);
+	}
+	
+	/**
+	 * 실행 식별자를 새로 생성하여 {@link #execute(String, CleanerInterfaceInfo, CleanerEventListener, BooleanSupplier)} 를 호출한다.
+	 */
+	public CleanerRunResult execute(CleanerInterfaceInfo info, CleanerEventListener listener, BooleanSupplier cancelled) throws IOException {
+		return execute(UUID.randomUUID().toString(), info, listener, cancelled);
+	}
+	
+	/**
+	 * 삭제 작업을 실행하고 경로별 결과를 반환한다.
+	 *
+	 * @param runId 이벤트와 결과에 기록할 실행 식별자
+	 * @param listener 방문/일치/삭제/오류 이벤트를 받을 리스너 (nullable)
+	 * @param cancelled true 를 반환하면 다음 파일 방문 시점에 작업을 중단한다 (nullable)
+	 */
+	public CleanerRunResult execute(String runId, CleanerInterfaceInfo info, CleanerEventListener listener, BooleanSupplier cancelled) throws IOException {
 		LocalDateTime now = LocalDateTime.now();
 		Expression expression = info.getExpression();
 		String historyPath = info.getHistoryPath();
 		String searchPaths = info.getSearchPaths();
 		String searchRule = info.getSearchRules();
+		List<String> excludePathList = info.getExcludePath();
+		List<CleanerPathResult> pathResults = new ArrayList<CleanerPathResult>();
+		List<Throwable> errors = new ArrayList<Throwable>();
+		boolean stopped = false;
 		
 		if (StringUtils.isNullOrEmpty(historyPath)) {
-			loop(now, null, expression, searchPaths, searchRule);
+			stopped = loop(runId, now, null, expression, searchPaths, searchRule, excludePathList, listener, cancelled, pathResults);
 		} else {
-			Path historyFile = Paths.get(historyPath).resolve("history_" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS")));
+			Path historyFile = Paths.get(historyPath).resolve("history_" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS")) + "_" + runId);
 			Files.createDirectories(historyFile.getParent());
-			try (BufferedWriter history = Files.newBufferedWriter(historyFile)) {
-				loop(now, history, expression, searchPaths, searchRule);
+			try (BufferedWriter history = Files.newBufferedWriter(historyFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+				stopped = loop(runId, now, history, expression, searchPaths, searchRule, excludePathList, listener, cancelled, pathResults);
 				history.flush();
 				history.close();
 			} catch (Exception e) {
+				errors.add(e);
 				log.error("삭제 이력 파일 생성 중 오류가 발생했습니다. [HISTORY_PATH: {}]\r\n", historyFile.toAbsolutePath(), e);
 			}
 			if (Files.exists(historyFile) && Files.size(historyFile) == 0L) {
@@ -48,11 +82,17 @@ public class Cleaner {
 				Files.deleteIfExists(historyFile);
 			}
 		}
+		return new CleanerRunResult(runId, pathResults, errors, stopped);
 	}
 	
-	private void loop(LocalDateTime now, BufferedWriter history, Expression expression, String searchPaths, String searchRule) throws IOException {
+	private boolean loop(String runId, LocalDateTime now, BufferedWriter history, Expression expression, String searchPaths, String searchRule, List<String> excludePathList,
+			CleanerEventListener listener, BooleanSupplier cancelled, List<CleanerPathResult> pathResults) throws IOException {
 		String[] searchPathArr = searchPaths.split(",");
 		for (String searchPath : searchPathArr) {
+			if (isCancelled(cancelled)) {
+				log.info("삭제 프로세스가 취소되었습니다. :: [SEARCH_PATHS: {}]", searchPaths);
+				return true;
+			}
 			String normalizedPath = FileUtils.normalizePath(searchPath);
 			String normalizedBasePath = extractBasePath(normalizedPath);
 			Path basePath = Paths.get(normalizedBasePath);
@@ -60,21 +100,34 @@ public class Cleaner {
 				CleanerFileVisitor visitor = null;
 				if (normalizedPath.equals(normalizedBasePath)) {
 					log.info("삭제 프로세스 시작 :: [BASE_PATH: {}][RULE: {}]", normalizedPath, searchRule);
-					visitor = new CleanerFileVisitor(excludePathList, history, now, expression, null, basePath);
+					visitor = new CleanerFileVisitor(excludePathList, history, now, expression, null, basePath, runId, listener, cancelled);
 				} else {
 					log.info("삭제 프로세스 시작 :: [BASE_PATH: {}][RULE: {}][PATTERN: {}]", normalizedPath, searchRule, normalizedBasePath);
-					visitor = new CleanerFileVisitor(excludePathList, history, now, expression, normalizedBasePath, basePath);
+					visitor = new CleanerFileVisitor(excludePathList, history, now, expression, normalizedBasePath, basePath, runId, listener, cancelled);
 				}
 				try {
 					Files.walkFileTree(basePath, visitor);
 				} catch (Exception e) {
+					visitor.addError(basePath, e);
 					log.error("디렉토리 확인 중 오류가 발생했습니다. :: [BASE_PATH: {}]", basePath.toAbsolutePath());
 				}
-				
+				pathResults.add(new CleanerPathResult(normalizedPath, visitor.getVisitedCount(), visitor.getFileCount(), visitor.getDirectoryCount(), visitor.getDeletedBytes(), visitor.getErrors()));
+				if (visitor.isTerminated()) {
+					log.info("삭제 프로세스가 취소되었습니다. :: [BASE_PATH: {}]", normalizedBasePath);
+					return true;
+				}
 			} else {
+				IOException e = Files.exists(basePath) ? new NotDirectoryException(normalizedBasePath) : new NoSuchFileException(normalizedBasePath);
+				if (Objects.nonNull(listener) && listener.isListening()) listener.accept(new CleanerEvent(runId, EVENT_TYPE.ERROR, basePath, basePath, false, 0L, e));
+				pathResults.add(new CleanerPathResult(normalizedPath, 0L, 0L, 0L, 0L, Collections.<Throwable>singletonList(e)));
 				log.error("지정된 경로가 존재하지 않거나 디렉토리가 아닙니다. :: [BASE_PATH: {}]", normalizedBasePath);
 			}
 		}
+		return false;
+	}
+	
+	private boolean isCancelled(BooleanSupplier cancelled) {
+		return Objects.nonNull(cancelled) && cancelled.getAsBoolean();
 	}
 	
 	private String extractBasePath(String path) {
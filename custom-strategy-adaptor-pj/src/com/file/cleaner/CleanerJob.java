@@ -0,0 +1,42 @@
+package com.file.cleaner;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.file.cleaner.data.CleanerRunResult;
+
+/**
+ * {@link AsyncCleaner#runAsync(com.file.cleaner.data.CleanerInterfaceInfo)} 로 시작한 작업의 핸들.
+ * <p>
+ * {@link #cancel()} 로 취소하면 작업은 다음 파일 방문 시점에 중단되고, {@link #getResult()} 는
+ * {@link CleanerRunResult#isCancelled()} 가 true 인 부분 결과로 정상 완료된다.
+ * {@link #getResult()} 의 future 를 직접 {@code cancel} 해도 작업은 중단되지만 부분 결과는 받을 수 없다.
+ */
+public class CleanerJob {
+	private final String id;
+	private final CompletableFuture<CleanerRunResult> result = new CompletableFuture<CleanerRunResult>();
+	private final AtomicBoolean cancelRequested = new AtomicBoolean(false);
+
+	CleanerJob(String id) {
+		this.id = id;
+		this.result.whenComplete((value, error) -> {
+			if (this.result.isCancelled()) this.cancelRequested.set(true);
+		});
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public CompletableFuture<CleanerRunResult> getResult() {
+		return result;
+	}
+
+	public void cancel() {
+		this.cancelRequested.set(true);
+	}
+
+	public boolean isCancelRequested() {
+		return this.cancelRequested.get();
+	}
+}
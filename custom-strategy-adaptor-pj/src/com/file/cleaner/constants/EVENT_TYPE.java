@@ -0,0 +1,9 @@
+package com.file.cleaner.constants;
+
+public enum EVENT_TYPE {
+	VISIT,
+	MATCH,
+	DELETE,
+	ERROR,
+	COMPLETE;
+}
@@ -0,0 +1,64 @@
+package com.file.cleaner.data;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import com.file.cleaner.constants.EVENT_TYPE;
+
+public class CleanerEvent {
+	private final String runId;
+	private final EVENT_TYPE type;
+	private final Path basePath;
+	private final Path path;
+	private final boolean directory;
+	private final long size;
+	private final Throwable error;
+	private final LocalDateTime timestamp = LocalDateTime.now();
+	
+	public CleanerEvent(String runId, EVENT_TYPE type, Path basePath, Path path, boolean directory, long size, Throwable error) {
+		this.runId = runId;
+		this.type = type;
+		this.basePath = basePath;
+		this.path = path;
+		this.directory = directory;
+		this.size = size;
+		this.error = error;
+	}
+	
+	public String getRunId() {
+		return runId;
+	}
+	
+	public EVENT_TYPE getType() {
+		return type;
+	}
+	
+	public Path getBasePath() {
+		return basePath;
+	}
+	
+	public Path getPath() {
+		return path;
+	}
+	
+	public boolean isDirectory() {
+		return directory;
+	}
+	
+	public long getSize() {
+		return size;
+	}
+	
+	public Throwable getError() {
+		return error;
+	}
+	
+	public LocalDateTime getTimestamp() {
+		return timestamp;
+	}
+	
+	@Override
+	public String toString() {
+		return "[" + runId + "][" + type + "][" + (directory ? "D" : "F") + "] " + path + (error == null ? "" : " :: " + error);
+	}
+}
@@ -0,0 +1,51 @@
+package com.file.cleaner.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class CleanerPathResult {
+	private final String searchPath;
+	private final long visitedCount;
+	private final long fileCount;
+	private final long directoryCount;
+	private final long deletedBytes;
+	private final List<Throwable> errors;
+	
+	public CleanerPathResult(String searchPath, long visitedCount, long fileCount, long directoryCount, long deletedBytes, List<Throwable> errors) {
+		this.searchPath = searchPath;
+		this.visitedCount = visitedCount;
+		this.fileCount = fileCount;
+		this.directoryCount = directoryCount;
+		this.deletedBytes = deletedBytes;
+		this.errors = Collections.unmodifiableList(new ArrayList<Throwable>(errors));
+	}
+	
+	public String getSearchPath() {
+		return searchPath;
+	}
+	
+	public long getVisitedCount() {
+		return visitedCount;
+	}
+	
+	public long getFileCount() {
+		return fileCount;
+	}
+	
+	public long getDirectoryCount() {
+		return directoryCount;
+	}
+	
+	public long getDeletedBytes() {
+		return deletedBytes;
+	}
+	
+	public List<Throwable> getErrors() {
+		return errors;
+	}
+	
+	public boolean hasErrors() {
+		return !errors.isEmpty();
+	}
+}
@@ -0,0 +1,67 @@
+package com.file.cleaner.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class CleanerRunResult {
+	private final String runId;
+	private final List<CleanerPathResult> pathResults;
+	private final List<Throwable> errors;
+	private final boolean cancelled;
+	
+	public CleanerRunResult(String runId, List<CleanerPathResult> pathResults, List<Throwable> errors, boolean cancelled) {
+		this.runId = runId;
+		this.pathResults = Collections.unmodifiableList(new ArrayList<CleanerPathResult>(pathResults));
+		this.errors = Collections.unmodifiableList(new ArrayList<Throwable>(errors));
+		this.cancelled = cancelled;
+	}
+	
+	public String getRunId() {
+		return runId;
+	}
+	
+	public List<CleanerPathResult> getPathResults() {
+		return pathResults;
+	}
+	
+	/**
+	 * 경로별 결과에 포함되지 않는 작업 단위 오류(이력 파일 생성 실패 등)를 반환한다.
+	 */
+	public List<Throwable> getErrors() {
+		return errors;
+	}
+	
+	/**
+	 * 취소 요청으로 작업이 중간에 종료되었는지 여부. 이 경우 경로별 결과에는 중단 시점까지의 처리 내역만 포함된다.
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+	
+	public long getFileCount() {
+		long count = 0L;
+		for (CleanerPathResult result : pathResults) count += result.getFileCount();
+		return count;
+	}
+	
+	public long getDirectoryCount() {
+		long count = 0L;
+		for (CleanerPathResult result : pathResults) count += result.getDirectoryCount();
+		return count;
+	}
+	
+	public long getDeletedBytes() {
+		long bytes = 0L;
+		for (CleanerPathResult result : pathResults) bytes += result.getDeletedBytes();
+		return bytes;
+	}
+	
+	public boolean hasErrors() {
+		if (!errors.isEmpty()) return true;
+		for (CleanerPathResult result : pathResults) {
+			if (result.hasErrors()) return true;
+		}
+		return false;
+	}
+}
@@ -1,5 +1,8 @@
 package com.file.cleaner.service;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.springframework.expression.AccessException;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.PropertyAccessor;
@@ -9,6 +12,13 @@ import com.file.cleaner.constants.FILE_ATTRIBUTES;
 import com.file.cleaner.data.CleanerFileData;
 
 public class CleanerEnumAccessor implements PropertyAccessor {
+	private static final Set<String> NAMES = new HashSet<String>();
+	static {
+		for (FILE_ATTRIBUTES attr : FILE_ATTRIBUTES.values()) {
+			NAMES.add(attr.name());
+		}
+	}
+	
 	@Override
 	public Class<?>[] getSpecificTargetClasses() {
 		return new Class[] { CleanerFileData.class };
@@ -16,12 +26,7 @@ public class CleanerEnumAccessor implements PropertyAccessor {
 
 	@Override
 	public boolean canRead(EvaluationContext context, Object target, String name) throws AccessException {
-		try {
-			FILE_ATTRIBUTES.valueOf(name);
-			return true;
-		} catch (Exception e) {
-			return false;
-		}
+		return NAMES.contains(name);
 	}
 
 	@Override
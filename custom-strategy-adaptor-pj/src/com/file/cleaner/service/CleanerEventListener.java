@@ -0,0 +1,14 @@
+package com.file.cleaner.service;
+
+import java.util.function.Consumer;
+
+import com.file.cleaner.data.CleanerEvent;
+
+public interface CleanerEventListener extends Consumer<CleanerEvent> {
+	/**
+	 * false 를 반환하면 이벤트 객체를 생성하지 않고 전달을 건너뛴다.
+	 */
+	default boolean isListening() {
+		return true;
+	}
+}
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -26,6 +27,8 @@ import java.util.stream.Collectors;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import com.file.cleaner.constants.EVENT_TYPE;
+import com.file.cleaner.data.CleanerEvent;
 import com.file.cleaner.data.CleanerFileData;
 import com.file.cleaner.utils.FileUtils;
 import com.file.cleaner.utils.StringUtils;
@@ -43,10 +46,22 @@ public class CleanerFileVisitor extends SimpleFileVisitor<Path> {
 	private final Expression expression;
 	private String pattern;
 	private Path baseDirectory;
+	private final String runId;
+	private final CleanerEventListener listener;
+	private final BooleanSupplier cancelled;
+	private final List<Throwable> errors = new ArrayList<Throwable>();
 	private int fileCount = 0;
 	private int directoryCount = 0;
+	private long visitedCount = 0L;
+	private long deletedBytes = 0L;
+	private boolean terminated = false;
 	
 	public CleanerFileVisitor(List<String> excludePathList, BufferedWriter history, LocalDateTime now, Expression expression, String pattern, Path baseDirectory) {
+		this(excludePathList, history, now, expression, pattern, baseDirectory, null, null, null);
+	}
+	
+	public CleanerFileVisitor(List<String> excludePathList, BufferedWriter history, LocalDateTime now, Expression expression, String pattern, Path baseDirectory,
+			String runId, CleanerEventListener listener, BooleanSupplier cancelled) {
 		this.baseDirectory = baseDirectory;
 		if (Objects.nonNull(excludePathList)) {
 			for (String excludePath : excludePathList) {
@@ -72,11 +87,15 @@ public class CleanerFileVisitor extends SimpleFileVisitor<Path> {
 		this.now = now;
 		this.expression = expression;
 		this.pattern = pattern;
+		this.runId = runId;
+		this.listener = listener;
+		this.cancelled = cancelled;
 		this.CONTEXT.addPropertyAccessor(new CleanerEnumAccessor());
 	}
 
 	@Override
 	public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+		if (this.isCancelled()) return this.terminate();
 		Path absolutePath = dir.toAbsolutePath();
 		if (this.isExactExcluded(absolutePath)) {
 			log.debug("EXCLUDE EXACT PATH :: {}", dir.toAbsolutePath());
@@ -85,13 +104,21 @@ public class CleanerFileVisitor extends SimpleFileVisitor<Path> {
 			log.debug("EXCLUDE SUBTREE PATH :: {}", dir.toAbsolutePath());
 			return FileVisitResult.SKIP_SUBTREE;
 		} else {
-			CleanerFileData data = new CleanerFileData(dir, attrs, this.now, this.pattern);
-			this.CONTEXT.setRootObject(data);
-			boolean result = Boolean.TRUE.equals(expression.getValue(CONTEXT, Boolean.class));
-			String message = data.toString(result);
-			log.debug("{} {}", dir.getFileName(), message);
-			if (result) {
-				this.targetDirectoryMap.put(dir, message);
+			try {
+				CleanerFileData data = new CleanerFileData(dir, attrs, this.now, this.pattern);
+				this.CONTEXT.setRootObject(data);
+				boolean result = Boolean.TRUE.equals(expression.getValue(CONTEXT, Boolean.class));
+				String message = data.toString(result);
+				log.debug("{} {}", dir.getFileName(), message);
+				this.visitedCount++;
+				this.publish(EVENT_TYPE.VISIT, dir, true, 0L, null);
+				if (result) {
+					this.targetDirectoryMap.put(dir, message);
+					this.publish(EVENT_TYPE.MATCH, dir, true, 0L, null);
+				}
+			} catch (Exception e) {
+				log.error("Failed to check directory :: {}\r\n", dir.toAbsolutePath(), e);
+				this.addError(dir, e);
 			}
 		}
 		return FileVisitResult.CONTINUE;
@@ -99,33 +126,64 @@ public class CleanerFileVisitor extends SimpleFileVisitor<Path> {
 	
 	@Override
 	public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
-		if (this.targetDirectoryMap.containsKey(dir)) {
-			String message = this.targetDirectoryMap.get(dir);
-			if (FileUtils.isDirectoryEmpty(dir)) {
-				FileUtils.delete(dir);
-				this.directoryCount++;
-				this.write(true, dir, message);
+		if (Objects.nonNull(exc)) {
+			log.error("Failed to read directory :: {}\r\n", dir.toAbsolutePath(), exc);
+			this.addError(dir, exc);
+		}
+		String message = this.targetDirectoryMap.remove(dir);
+		boolean deleted = false;
+		if (Objects.nonNull(message)) {
+			try {
+				if (FileUtils.isDirectoryEmpty(dir)) {
+					FileUtils.delete(dir);
+					deleted = true;
+					this.directoryCount++;
+					this.publish(EVENT_TYPE.DELETE, dir, true, 0L, null);
+				}
+			} catch (Exception e) {
+				log.error("Failed to delete directory :: {}\r\n", dir.toAbsolutePath(), e);
+				this.addError(dir, e);
 			}
 		}
+		if (deleted) {
+			this.write(true, dir, message);
+		}
 		return FileVisitResult.CONTINUE;
 	}
 	
 	@Override
 	public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+		if (this.isCancelled()) return this.terminate();
 		Path absolutePath = file.toAbsolutePath();
 		if (this.isExactExcluded(absolutePath)) {
 			log.debug("EXCLUDE EXACT PATH :: {}", file.toAbsolutePath());
 			return FileVisitResult.CONTINUE;
 		} else {
-			CleanerFileData data = new CleanerFileData(file, attrs, now, pattern);
-			CONTEXT.setRootObject(data);
-			boolean result = Boolean.TRUE.equals(expression.getValue(CONTEXT, Boolean.class));
-			String message = data.toString(result);
-			log.debug("{} {}", file.getFileName(), message);
-			if (result) {
-				FileUtils.delete(file);
-				this.fileCount++;
-				this.write(false, file, message);
+			String deletedMessage = null;
+			try {
+				CleanerFileData data = new CleanerFileData(file, attrs, now, pattern);
+				CONTEXT.setRootObject(data);
+				boolean result = Boolean.TRUE.equals(expression.getValue(CONTEXT, Boolean.class));
+				String message = data.toString(result);
+				log.debug("{} {}", file.getFileName(), message);
+				long size = attrs.size();
+				this.visitedCount++;
+				this.publish(EVENT_TYPE.VISIT, file, false, size, null);
+				if (result) {
+					this.publish(EVENT_TYPE.MATCH, file, false, size, null);
+					FileUtils.delete(file);
+					deletedMessage = message;
+					this.fileCount++;
+					this.deletedBytes += size;
+					this.publish(EVENT_TYPE.DELETE, file, false, size, null);
+				}
+			} catch (Exception e) {
+				log.error("Failed to check file :: {}\r\n", file.toAbsolutePath(), e);
+				this.addError(file, e);
+			}
+			// 이력 기록 실패는 삭제 내역을 남길 수 없으므로 해당 경로의 탐색을 중단한다.
+			if (Objects.nonNull(deletedMessage)) {
+				this.write(false, file, deletedMessage);
 			}
 		}
 		return FileVisitResult.CONTINUE;
@@ -134,6 +192,7 @@ public class CleanerFileVisitor extends SimpleFileVisitor<Path> {
 	@Override
 	public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
 		log.error("Failed to check file :: {}\r\n", file.toAbsolutePath(), exc);
+		this.addError(file, exc);
 		return FileVisitResult.CONTINUE;
 	}
 	
@@ -147,6 +206,21 @@ public class CleanerFileVisitor extends SimpleFileVisitor<Path> {
 		}
 	}
 	
+	private void publish(EVENT_TYPE type, Path path, boolean isDirectory, long size, Throwable error) {
+		if (Objects.nonNull(this.listener) && this.listener.isListening()) {
+			this.listener.accept(new CleanerEvent(this.runId, type, this.baseDirectory, path, isDirectory, size, error));
+		}
+	}
+	
+	private boolean isCancelled() {
+		return Objects.nonNull(this.cancelled) && this.cancelled.getAsBoolean();
+	}
+	
+	private FileVisitResult terminate() {
+		this.terminated = true;
+		return FileVisitResult.TERMINATE;
+	}
+	
 	private boolean isExactExcluded(Path absolutePath) {
 		return this.excludeExactPaths.contains(absolutePath);
 	}
@@ -165,4 +239,32 @@ public class CleanerFileVisitor extends SimpleFileVisitor<Path> {
 	public int getDirectoryCount() {
 		return this.directoryCount;
 	}
+	
+	public long getVisitedCount() {
+		return this.visitedCount;
+	}
+	
+	public long getDeletedBytes() {
+		return this.deletedBytes;
+	}
+	
+	public List<Throwable> getErrors() {
+		return this.errors;
+	}
+	
+	/**
+	 * 취소 요청으로 탐색이 중간에 종료되었는지 여부.
+	 */
+	public boolean isTerminated() {
+		return this.terminated;
+	}
+	
+	public void addError(Path path, Throwable error) {
+		this.errors.add(error);
+		try {
+			this.publish(EVENT_TYPE.ERROR, path, Files.isDirectory(path), 0L, error);
+		} catch (Exception e) {
+			log.error("Failed to publish error event :: {}\r\n", path.toAbsolutePath(), e);
+		}
+	}
 }
@@ -0,0 +1,168 @@
+package com.file.cleaner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.file.cleaner.constants.EVENT_TYPE;
+import com.file.cleaner.data.CleanerEvent;
+import com.file.cleaner.data.CleanerRunResult;
+
+class AsyncCleanerTest {
+	private static final int FILE_COUNT = 100;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void cancelCompletesWithPartialResult() throws Exception {
+		createFiles(FILE_COUNT);
+		try (AsyncCleaner cleaner = new AsyncCleaner()) {
+			CleanerJob job = cleaner.runAsync(CleanerTest.info(dir.toString(), "T(java.lang.Thread).sleep(20L) == null and IS_FILE"));
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (countFiles() == FILE_COUNT && System.nanoTime() < deadline) {
+				Thread.sleep(5L);
+			}
+			job.cancel();
+
+			CleanerRunResult result = job.getResult().get(10, TimeUnit.SECONDS);
+
+			assertTrue(result.isCancelled());
+			assertEquals(job.getId(), result.getRunId());
+			assertTrue(result.getFileCount() > 0);
+			assertTrue(result.getFileCount() < FILE_COUNT);
+			assertEquals(FILE_COUNT - result.getFileCount(), countFiles());
+		}
+	}
+
+	@Test
+	void stalledSubscriberDoesNotBlockJobOrClose() throws Exception {
+		createFiles(FILE_COUNT);
+		AsyncCleaner cleaner = new AsyncCleaner(1);
+		RecordingSubscriber stalled = new RecordingSubscriber(0L);
+		cleaner.getPublisher().subscribe(stalled);
+		CleanerJob job = cleaner.runAsync(CleanerTest.info(dir.toString(), "IS_FILE"));
+
+		CleanerRunResult result = job.getResult().get(10, TimeUnit.SECONDS);
+		assertTimeoutPreemptively(Duration.ofSeconds(10), cleaner::close);
+
+		assertEquals(FILE_COUNT, result.getFileCount());
+		assertEquals(0L, countFiles());
+		assertTrue(cleaner.getDroppedEventCount(stalled) > 0L);
+		assertTrue(stalled.events.isEmpty());
+	}
+
+	@Test
+	void slowSubscriberAccountsForEveryEvent() throws Exception {
+		createFiles(FILE_COUNT);
+		AsyncCleaner cleaner = new AsyncCleaner(1);
+		RecordingSubscriber slow = new RecordingSubscriber(1L) {
+			@Override
+			public void onNext(CleanerEvent item) {
+				super.onNext(item);
+				try {
+					Thread.sleep(1L);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				request(1L);
+			}
+		};
+		cleaner.getPublisher().subscribe(slow);
+		CleanerJob job = cleaner.runAsync(CleanerTest.info(dir.toString(), "IS_FILE"));
+
+		CleanerRunResult result = job.getResult().get(10, TimeUnit.SECONDS);
+		assertTimeoutPreemptively(Duration.ofSeconds(10), cleaner::close);
+		assertTrue(slow.completed.await(10, TimeUnit.SECONDS));
+
+		assertEquals(FILE_COUNT, result.getFileCount());
+		// VISIT, MATCH, DELETE per file and one COMPLETE
+		assertEquals(3L * FILE_COUNT + 1L, slow.events.size() + cleaner.getDroppedEventCount(slow));
+	}
+
+	@Test
+	void closeWaitsForRunningJobsBeforeCompletingSubscribers() throws Exception {
+		createFiles(FILE_COUNT);
+		RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+		AsyncCleaner cleaner = new AsyncCleaner(1024);
+		cleaner.getPublisher().subscribe(subscriber);
+		CleanerJob job = cleaner.runAsync(CleanerTest.info(dir.toString(), "IS_FILE"));
+		cleaner.close();
+
+		assertTrue(job.getResult().isDone());
+		CleanerRunResult result = job.getResult().get();
+		assertFalse(result.hasErrors());
+		assertEquals(FILE_COUNT, result.getFileCount());
+		assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+		assertEquals(FILE_COUNT, subscriber.count(EVENT_TYPE.DELETE));
+		assertEquals(1L, subscriber.count(EVENT_TYPE.COMPLETE));
+		assertEquals(job.getId(), subscriber.events.get(subscriber.events.size() - 1).getRunId());
+		assertTrue(cleaner.runAsync(CleanerTest.info(dir.toString(), "IS_FILE")).getResult().isCompletedExceptionally());
+	}
+
+	private void createFiles(int count) throws Exception {
+		for (int i = 0; i < count; i++) {
+			Files.createFile(dir.resolve("file_" + i + ".log"));
+		}
+	}
+
+	private long countFiles() throws Exception {
+		try (Stream<Path> stream = Files.list(dir)) {
+			return stream.count();
+		}
+	}
+
+	static class RecordingSubscriber implements Flow.Subscriber<CleanerEvent> {
+		final List<CleanerEvent> events = new CopyOnWriteArrayList<CleanerEvent>();
+		final CountDownLatch completed = new CountDownLatch(1);
+		private final long initialRequest;
+		private volatile Flow.Subscription subscription;
+
+		RecordingSubscriber(long initialRequest) {
+			this.initialRequest = initialRequest;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			if (initialRequest > 0L) subscription.request(initialRequest);
+		}
+
+		@Override
+		public void onNext(CleanerEvent item) {
+			events.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			completed.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed.countDown();
+		}
+
+		void request(long n) {
+			subscription.request(n);
+		}
+
+		long count(EVENT_TYPE type) {
+			return events.stream().filter(event -> event.getType() == type).count();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.file.cleaner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.file.cleaner.constants.EVENT_TYPE;
+import com.file.cleaner.data.CleanerEvent;
+import com.file.cleaner.data.CleanerInterfaceInfo;
+import com.file.cleaner.data.CleanerPathResult;
+import com.file.cleaner.data.CleanerRunResult;
+
+class CleanerTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	void continuesWalkWhenOneEntryFails() throws Exception {
+		Path shortName = Files.createFile(dir.resolve("a.txt"));
+		Path longName = Files.write(dir.resolve("0123456789abc.txt"), new byte[] { 1, 2, 3 });
+
+		CleanerRunResult result = new Cleaner().execute(info(dir.toString(), "IS_FILE and NAME.substring(10).length() > 0"), null, null);
+
+		CleanerPathResult pathResult = result.getPathResults().get(0);
+		assertEquals(1L, pathResult.getFileCount());
+		assertEquals(3L, pathResult.getDeletedBytes());
+		assertEquals(1, pathResult.getErrors().size());
+		assertTrue(Files.exists(shortName));
+		assertFalse(Files.exists(longName));
+		assertTrue(result.hasErrors());
+	}
+
+	@Test
+	void reportsMissingAndNonDirectoryBasePaths() throws Exception {
+		Path file = Files.createFile(dir.resolve("file.txt"));
+		Path missing = dir.resolve("missing");
+		List<CleanerEvent> events = new ArrayList<CleanerEvent>();
+
+		CleanerRunResult result = new Cleaner().execute("run-1", info(missing + "," + file, "IS_FILE"), events::add, null);
+
+		assertInstanceOf(NoSuchFileException.class, result.getPathResults().get(0).getErrors().get(0));
+		assertInstanceOf(NotDirectoryException.class, result.getPathResults().get(1).getErrors().get(0));
+		assertEquals(2, events.size());
+		for (CleanerEvent event : events) {
+			assertEquals("run-1", event.getRunId());
+			assertEquals(EVENT_TYPE.ERROR, event.getType());
+			assertFalse(event.isDirectory());
+		}
+		assertTrue(Files.exists(file));
+	}
+
+	@Test
+	void historyFileNameContainsRunId() throws Exception {
+		Files.createFile(dir.resolve("target.log"));
+		Path historyPath = Files.createDirectory(dir.resolve("history"));
+		CleanerInterfaceInfo info = info(dir.toString(), "IS_FILE and EXTENSION == 'log'");
+		info.setHistoryPath(historyPath.toString());
+
+		new Cleaner().execute("run-a", info, null, null);
+
+		try (Stream<Path> stream = Files.list(historyPath)) {
+			List<Path> files = stream.collect(Collectors.toList());
+			assertEquals(1, files.size());
+			assertTrue(files.get(0).getFileName().toString().endsWith("_run-a"));
+		}
+	}
+
+	static CleanerInterfaceInfo info(String searchPaths, String searchRules) throws Exception {
+		CleanerInterfaceInfo info = new CleanerInterfaceInfo();
+		info.setSearchPaths(searchPaths);
+		info.setSearchRules(searchRules);
+		info.afterPropertiesSet();
+		return info;
+	}
+}